@@ -0,0 +1,100 @@
+package com.apora.eventweatherguard.service;
+
+import com.apora.eventweatherguard.response.HourlyForecastResponse;
+import com.apora.eventweatherguard.response.OpenMeteoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two mapAndFilter calls a request makes (event window and
+ * 24h lookahead over a 7-day series) against the previous parse-every-hour
+ * implementation. Run with {@code mvn -Pbenchmark test-compile exec:exec};
+ * the gc profiler reports gc.alloc.rate.norm as bytes per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WeatherApiClientBenchmark {
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2026, 2, 5, 0, 0);
+
+    private OpenMeteoResponse.Hourly hourly;
+    private LocalDateTime eventStart;
+    private LocalDateTime eventEnd;
+
+    @Setup
+    public void setUp() {
+        List<String> time = new ArrayList<>();
+        List<Integer> rain = new ArrayList<>();
+        List<Double> wind = new ArrayList<>();
+
+        for (int i = 0; i < 168; i++) {
+            time.add(FIRST.plusHours(i).toString());
+            rain.add(i % 101);
+            wind.add(i * 0.25);
+        }
+
+        hourly = new OpenMeteoResponse.Hourly();
+        hourly.setTime(time);
+        hourly.setPrecipitation_probability(rain);
+        hourly.setWind_speed_10m(wind);
+
+        eventStart = FIRST.plusDays(2).plusHours(17);
+        eventEnd = eventStart.plusHours(2);
+    }
+
+    @Benchmark
+    public void indexedSlice(Blackhole bh) {
+        bh.consume(WeatherApiClient.mapAndFilter(hourly, eventStart, eventEnd));
+        bh.consume(WeatherApiClient.mapAndFilter(hourly, eventStart, eventStart.plusHours(24)));
+    }
+
+    @Benchmark
+    public void parseEveryHour(Blackhole bh) {
+        bh.consume(parseEveryHour(hourly, eventStart, eventEnd));
+        bh.consume(parseEveryHour(hourly, eventStart, eventStart.plusHours(24)));
+    }
+
+    // mapAndFilter as it was before the indexed slice
+    private static List<HourlyForecastResponse> parseEveryHour(
+            OpenMeteoResponse.Hourly hourly,
+            LocalDateTime start,
+            LocalDateTime end) {
+
+        List<HourlyForecastResponse> result = new ArrayList<>();
+
+        for (int i = 0; i < hourly.getTime().size(); i++) {
+
+            LocalDateTime forecastTime =
+                    LocalDateTime.parse(hourly.getTime().get(i));
+
+            if (!forecastTime.isBefore(start) &&
+                    !forecastTime.isAfter(end)) {
+
+                result.add(new HourlyForecastResponse(
+                        forecastTime,
+                        hourly.getPrecipitation_probability().get(i),
+                        hourly.getWind_speed_10m().get(i)
+                ));
+            }
+        }
+        return result;
+    }
+}
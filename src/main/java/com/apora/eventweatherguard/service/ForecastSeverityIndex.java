@@ -0,0 +1,158 @@
+package com.apora.eventweatherguard.service;
+
+import com.apora.eventweatherguard.response.HourlyForecastResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Precomputed range structure over an hourly forecast, built once per
+ * fetched forecast by {@link WeatherRuleEngine#buildIndex(List)}.
+ * Every window query is O(1) after an O(n log n) build.
+ * All ranges are half-open: {@code [from, to)}, same as {@link List#subList}.
+ */
+public final class ForecastSeverityIndex {
+
+    private final List<HourlyForecastResponse> forecasts;
+    // sparseMax[k][i] = max severity of hours [i, i + 2^k)
+    private final int[][] sparseMax;
+    private final int[] log2;
+    private final int[] unsafePrefix;
+    private final int[] riskyPrefix;
+
+    ForecastSeverityIndex(
+            List<HourlyForecastResponse> forecasts,
+            ToIntFunction<HourlyForecastResponse> severityRule,
+            Predicate<HourlyForecastResponse> unsafeRule,
+            Predicate<HourlyForecastResponse> riskyRule) {
+
+        this.forecasts = List.copyOf(forecasts);
+        int size = this.forecasts.size();
+
+        int[] severity = new int[size];
+        unsafePrefix = new int[size + 1];
+        riskyPrefix = new int[size + 1];
+
+        for (int i = 0; i < size; i++) {
+
+            HourlyForecastResponse f = this.forecasts.get(i);
+            severity[i] = severityRule.applyAsInt(f);
+
+            unsafePrefix[i + 1] = unsafePrefix[i] + (unsafeRule.test(f) ? 1 : 0);
+            riskyPrefix[i + 1] = riskyPrefix[i] + (riskyRule.test(f) ? 1 : 0);
+        }
+
+        log2 = new int[size + 1];
+        for (int i = 2; i <= size; i++) {
+            log2[i] = log2[i / 2] + 1;
+        }
+
+        int levels = size == 0 ? 0 : log2[size] + 1;
+        sparseMax = new int[levels][];
+
+        if (levels > 0) {
+            sparseMax[0] = severity;
+        }
+
+        for (int k = 1; k < levels; k++) {
+
+            int half = 1 << (k - 1);
+            int[] prev = sparseMax[k - 1];
+            int[] level = new int[size - (1 << k) + 1];
+
+            for (int i = 0; i < level.length; i++) {
+                level[i] = Math.max(prev[i], prev[i + half]);
+            }
+            sparseMax[k] = level;
+        }
+    }
+
+    /**
+     * The forecast this index was built from; window indices refer to it.
+     */
+    public List<HourlyForecastResponse> forecasts() {
+        return forecasts;
+    }
+
+    public int size() {
+        return forecasts.size();
+    }
+
+    /**
+     * Position of the first hour at or after {@code time}.
+     */
+    public int firstAtOrAfter(LocalDateTime time) {
+
+        int low = 0;
+        int high = forecasts.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (forecasts.get(mid).getTime().isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Position of the first hour strictly after {@code time}.
+     */
+    public int firstAfter(LocalDateTime time) {
+
+        int low = 0;
+        int high = forecasts.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (forecasts.get(mid).getTime().isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Worst hourly severity in the window, or 0 for an empty window.
+     */
+    public int maxSeverity(int from, int to) {
+
+        checkRange(from, to);
+
+        if (from == to) {
+            return 0;
+        }
+
+        int k = log2[to - from];
+
+        return Math.max(
+                sparseMax[k][from],
+                sparseMax[k][to - (1 << k)]
+        );
+    }
+
+    public boolean hasUnsafeHour(int from, int to) {
+        checkRange(from, to);
+        return unsafePrefix[to] - unsafePrefix[from] > 0;
+    }
+
+    public boolean hasRiskyHour(int from, int to) {
+        checkRange(from, to);
+        return riskyPrefix[to] - riskyPrefix[from] > 0;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > forecasts.size() || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid window [" + from + ", " + to + ") for "
+                            + forecasts.size() + " hours"
+            );
+        }
+    }
+}
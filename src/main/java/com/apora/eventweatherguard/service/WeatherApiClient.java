@@ -3,21 +3,29 @@ package com.apora.eventweatherguard.service;
 import com.apora.eventweatherguard.request.LocationRequest;
 import com.apora.eventweatherguard.response.HourlyForecastResponse;
 import com.apora.eventweatherguard.response.OpenMeteoResponse;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@AllArgsConstructor
 public class WeatherApiClient {
 
     private final WebClient webClient;
+    private final String baseUrl;
 
+    public WeatherApiClient(
+            WebClient webClient,
+            @Value("${weather.api.base-url}") String baseUrl) {
+
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+    }
 
     public List<HourlyForecastResponse> getHourlyForecast(
             LocationRequest location,
@@ -45,7 +53,7 @@ public class WeatherApiClient {
 
     private String buildUrl(LocationRequest location) {
         return UriComponentsBuilder
-                .fromUriString("https://api.open-meteo.com/v1/forecast")
+                .fromUriString(baseUrl)
                 .queryParam("latitude", location.getLatitude())
                 .queryParam("longitude", location.getLongitude())
                 .queryParam(
@@ -56,7 +64,72 @@ public class WeatherApiClient {
                 .toUriString();
     }
 
-    private List<HourlyForecastResponse> mapAndFilter(
+    /**
+     * Open-Meteo hourly series are evenly spaced, so the in-window slice is
+     * located arithmetically from the first timestamp and the step; only that
+     * slice is materialized. Irregular series fall back to a full scan.
+     */
+    static List<HourlyForecastResponse> mapAndFilter(
+            OpenMeteoResponse.Hourly hourly,
+            LocalDateTime start,
+            LocalDateTime end) {
+
+        List<String> times = hourly.getTime();
+
+        if (times == null || times.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int size = times.size();
+        LocalDateTime first = parseHourlyTime(times.get(0));
+
+        long stepSeconds = size > 1
+                ? Duration.between(first, parseHourlyTime(times.get(1))).getSeconds()
+                : 3600;
+
+        if (stepSeconds <= 0 || !first.plusSeconds(stepSeconds * (size - 1))
+                .equals(parseHourlyTime(times.get(size - 1)))) {
+            return scanAndFilter(hourly, start, end);
+        }
+
+        long startOffset = Duration.between(first, start).getSeconds();
+        long endOffset = Duration.between(first, end).getSeconds();
+
+        // first index at or after start, last index at or before end
+        long from = Math.max(0, -Math.floorDiv(-startOffset, stepSeconds));
+        long to = Math.min(size, Math.floorDiv(endOffset, stepSeconds) + 1);
+
+        // startOffset drops sub-second precision; skip an hour still before start
+        if (from < to && first.plusSeconds(stepSeconds * from).isBefore(start)) {
+            from++;
+        }
+
+        if (from >= to) {
+            return new ArrayList<>();
+        }
+
+        // a gap and a duplicate inside the series would shift the slice
+        // without breaking the first/second/last check above
+        if (!first.plusSeconds(stepSeconds * from)
+                .equals(parseHourlyTime(times.get((int) from))) ||
+                !first.plusSeconds(stepSeconds * (to - 1))
+                        .equals(parseHourlyTime(times.get((int) (to - 1))))) {
+            return scanAndFilter(hourly, start, end);
+        }
+
+        List<HourlyForecastResponse> result = new ArrayList<>((int) (to - from));
+
+        for (int i = (int) from; i < to; i++) {
+            result.add(new HourlyForecastResponse(
+                    first.plusSeconds(stepSeconds * i),
+                    hourly.getPrecipitation_probability().get(i),
+                    hourly.getWind_speed_10m().get(i)
+            ));
+        }
+        return result;
+    }
+
+    private static List<HourlyForecastResponse> scanAndFilter(
             OpenMeteoResponse.Hourly hourly,
             LocalDateTime start,
             LocalDateTime end) {
@@ -66,7 +139,7 @@ public class WeatherApiClient {
         for (int i = 0; i < hourly.getTime().size(); i++) {
 
             LocalDateTime forecastTime =
-                    LocalDateTime.parse(hourly.getTime().get(i));
+                    parseHourlyTime(hourly.getTime().get(i));
 
             if (!forecastTime.isBefore(start) &&
                     !forecastTime.isAfter(end)) {
@@ -80,4 +153,44 @@ public class WeatherApiClient {
         }
         return result;
     }
+
+    /**
+     * Fast path for Open-Meteo's fixed {@code yyyy-MM-ddTHH:mm} format;
+     * anything else goes through the generic ISO parser.
+     */
+    static LocalDateTime parseHourlyTime(String text) {
+
+        if (text.length() != 16 ||
+                text.charAt(4) != '-' || text.charAt(7) != '-' ||
+                text.charAt(10) != 'T' || text.charAt(13) != ':') {
+            return LocalDateTime.parse(text);
+        }
+
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        int hour = digits(text, 11, 13);
+        int minute = digits(text, 14, 16);
+
+        if ((year | month | day | hour | minute) < 0) {
+            return LocalDateTime.parse(text);
+        }
+
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    // returns -1 if any character is not a digit
+    private static int digits(String text, int from, int to) {
+
+        int value = 0;
+
+        for (int i = from; i < to; i++) {
+            int d = text.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
 }
@@ -19,51 +19,113 @@ public class WeatherRuleEngine {
     private static final double UNSAFE_WIND_THRESHOLD = 40.0;
     private static final int RISKY_RAIN_THRESHOLD = 60;
 
-        public EventForecastResponse evaluate(
+    public EventForecastResponse evaluate(
             List<HourlyForecastResponse> forecasts) {
 
+        if (forecasts == null || forecasts.isEmpty()) {
+            return classify(forecasts, false, false, 0);
+        }
+
+        boolean unsafe = false;
+        boolean risky = false;
+        int severity = 0;
+
+        for (HourlyForecastResponse f : forecasts) {
+            unsafe |= isUnsafeHour(f);
+            risky |= isRiskyHour(f);
+            severity = Math.max(severity, hourlySeverity(f));
+        }
+
+        return classify(forecasts, unsafe, risky, severity);
+    }
+
+    /**
+     * Evaluates the hours in {@code [start, end]} of a shared index.
+     */
+    public EventForecastResponse evaluate(
+            ForecastSeverityIndex index,
+            LocalDateTime start,
+            LocalDateTime end) {
+
+        int from = index.firstAtOrAfter(start);
+        int to = Math.max(from, index.firstAfter(end));
+
+        return classify(
+                index.forecasts().subList(from, to),
+                index.hasUnsafeHour(from, to),
+                index.hasRiskyHour(from, to),
+                index.maxSeverity(from, to)
+        );
+    }
+
+    public ForecastSeverityIndex buildIndex(
+            List<HourlyForecastResponse> forecasts) {
+
+        return new ForecastSeverityIndex(
+                forecasts == null ? List.of() : forecasts,
+                WeatherRuleEngine::hourlySeverity,
+                WeatherRuleEngine::isUnsafeHour,
+                WeatherRuleEngine::isRiskyHour
+        );
+    }
+
+    static int hourlySeverity(HourlyForecastResponse f) {
+
+        int rain = f.getRainProbability();
+        int wind = (int) Math.min((f.getWindKmh() / 50.0) * 100, 100);
+
+        return (int) (0.6 * rain + 0.4 * wind);
+    }
+
+    static boolean isUnsafeHour(HourlyForecastResponse f) {
+        return f.getRainProbability() > UNSAFE_RAIN_THRESHOLD ||
+                f.getWindKmh() > UNSAFE_WIND_THRESHOLD;
+    }
+
+    static boolean isRiskyHour(HourlyForecastResponse f) {
+        return f.getRainProbability() > RISKY_RAIN_THRESHOLD;
+    }
+
+    private EventForecastResponse classify(
+            List<HourlyForecastResponse> forecasts,
+            boolean unsafe,
+            boolean risky,
+            int severity) {
+
         if (forecasts == null || forecasts.isEmpty()) {
             return buildResponse(
                     Classification.SAFE,
                     List.of("No adverse weather conditions detected"),
-                    forecasts
+                    forecasts,
+                    0
             );
         }
 
         List<String> reasons = new ArrayList<>();
 
-        boolean unsafe = forecasts.stream().anyMatch(f ->
-                f.getRainProbability() > UNSAFE_RAIN_THRESHOLD ||
-                        f.getWindKmh() > UNSAFE_WIND_THRESHOLD
-        );
-
         if (unsafe) {
             reasons.add("Heavy rain or strong winds detected");
-            return buildResponse(Classification.UNSAFE, reasons, forecasts);
+            return buildResponse(Classification.UNSAFE, reasons, forecasts, severity);
         }
 
-        boolean risky = forecasts.stream().anyMatch(f ->
-                f.getRainProbability() > RISKY_RAIN_THRESHOLD
-        );
-
         if (risky) {
             reasons.add("High chance of rain during event window");
-            return buildResponse(Classification.RISKY, reasons, forecasts);
+            return buildResponse(Classification.RISKY, reasons, forecasts, severity);
         }
 
         return buildResponse(
                 Classification.SAFE,
                 List.of("Weather conditions are stable"),
-                forecasts
+                forecasts,
+                severity
         );
     }
 
     private EventForecastResponse buildResponse(
             Classification classification,
             List<String> reasons,
-            List<HourlyForecastResponse> forecasts) {
-
-        int severity = calculateSeverity(forecasts);
+            List<HourlyForecastResponse> forecasts,
+            int severity) {
 
         return EventForecastResponse.builder()
                 .classification(classification)
@@ -75,19 +137,6 @@ public class WeatherRuleEngine {
 
     }
 
-    private int calculateSeverity(List<HourlyForecastResponse> forecasts) {
-
-        return forecasts.stream()
-                .mapToInt(f -> {
-                    int rain = f.getRainProbability();
-                    int wind = (int) Math.min((f.getWindKmh() / 50.0) * 100, 100);
-
-                    return (int) (0.6 * rain + 0.4 * wind);
-                })
-                .max()
-                .orElse(0);
-    }
-
     public Optional<TimeWindowRecommendation> recommendTimeWindow(
             List<HourlyForecastResponse> forecasts,
             Duration eventDuration) {
@@ -96,27 +145,53 @@ public class WeatherRuleEngine {
             return Optional.empty();
         }
 
+        ForecastSeverityIndex index = buildIndex(forecasts);
+
+        return recommendTimeWindow(index, 0, index.size(), eventDuration);
+    }
+
+    /**
+     * Scans every window of the event's length that lies within the hours
+     * {@code [start, end]} of a shared index.
+     */
+    public Optional<TimeWindowRecommendation> recommendTimeWindow(
+            ForecastSeverityIndex index,
+            LocalDateTime start,
+            LocalDateTime end,
+            Duration eventDuration) {
+
+        int from = index.firstAtOrAfter(start);
+        int to = Math.max(from, index.firstAfter(end));
+
+        return recommendTimeWindow(index, from, to, eventDuration);
+    }
+
+    private Optional<TimeWindowRecommendation> recommendTimeWindow(
+            ForecastSeverityIndex index,
+            int from,
+            int to,
+            Duration eventDuration) {
+
+        List<HourlyForecastResponse> forecasts = index.forecasts();
+
         int windowSize = (int) eventDuration.toHours();
 
-        if (windowSize <= 0 || windowSize > forecasts.size()) {
+        if (from == to || windowSize <= 0 || windowSize > to - from) {
             return Optional.empty();
         }
 
         int bestSeverity = Integer.MAX_VALUE;
         TimeWindowRecommendation bestWindow = null;
 
-        for (int i = 0; i + windowSize <= forecasts.size(); i++) {
-
-            List<HourlyForecastResponse> window =
-                    forecasts.subList(i, i + windowSize);
+        for (int i = from; i + windowSize <= to; i++) {
 
-            int severity = calculateSeverity(window);
+            int severity = index.maxSeverity(i, i + windowSize);
 
             if (severity < bestSeverity) {
 
                 bestSeverity = severity;
 
-                LocalDateTime startTime = window.get(0).getTime();
+                LocalDateTime startTime = forecasts.get(i).getTime();
                 LocalDateTime endTime = startTime.plus(eventDuration);
 
 
@@ -134,4 +209,3 @@ public class WeatherRuleEngine {
 
 
 }
-
@@ -2,6 +2,7 @@ package com.apora.eventweatherguard.service.serviceImpl;
 
 import com.apora.eventweatherguard.response.Classification;
 import com.apora.eventweatherguard.service.EventForecastService;
+import com.apora.eventweatherguard.service.ForecastSeverityIndex;
 import com.apora.eventweatherguard.service.WeatherApiClient;
 import com.apora.eventweatherguard.service.WeatherRuleEngine;
 import lombok.AllArgsConstructor;
@@ -13,6 +14,7 @@ import com.apora.eventweatherguard.response.HourlyForecastResponse;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -34,22 +36,25 @@ public class EventForecastServiceImpl implements EventForecastService {
             );
         }
 
+        LocalDateTime lookaheadEnd = request.getStartTime().plusHours(24);
+
+        // one fetch covers both the event window and the 24h lookahead
         List<HourlyForecastResponse> hourlyForecast =
                 weatherApiClient.getHourlyForecast(
                         request.getLocation(),
                         request.getStartTime(),
-                        request.getEndTime()
+                        request.getEndTime().isAfter(lookaheadEnd)
+                                ? request.getEndTime()
+                                : lookaheadEnd
                 );
 
-        EventForecastResponse response =
-                ruleEngine.evaluate(hourlyForecast);
+        ForecastSeverityIndex index = ruleEngine.buildIndex(hourlyForecast);
 
-        List<HourlyForecastResponse> next24HoursForecast =
-                weatherApiClient.getHourlyForecast(
-                        request.getLocation(),
-                        request.getStartTime(),
-                        request.getStartTime().plusHours(24)
-                );
+        EventForecastResponse response = ruleEngine.evaluate(
+                index,
+                request.getStartTime(),
+                request.getEndTime()
+        );
 
         //  BONUS PART CALLED HERE
         if (response.getClassification() != Classification.SAFE) {
@@ -60,7 +65,12 @@ public class EventForecastServiceImpl implements EventForecastService {
             );
 
             ruleEngine
-                    .recommendTimeWindow(next24HoursForecast, eventDuration)
+                    .recommendTimeWindow(
+                            index,
+                            request.getStartTime(),
+                            lookaheadEnd,
+                            eventDuration
+                    )
                     .ifPresent(response::setRecommendedWindow);
         }
 
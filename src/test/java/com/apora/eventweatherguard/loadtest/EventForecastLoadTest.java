@@ -0,0 +1,104 @@
+package com.apora.eventweatherguard.loadtest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end throughput run against a local Open-Meteo stub.
+ * Excluded from the default build; run with {@code mvn test -Pload-test}.
+ * Tuned through system properties, see README.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EventForecastLoadTest {
+
+    // first hour of the sample payloads; the stub replays them verbatim
+    private static final LocalDateTime FORECAST_START =
+            LocalDateTime.of(2026, 2, 5, 0, 0);
+    private static final int FORECAST_HOURS = 168;
+
+    private static final OpenMeteoStubServer STUB = OpenMeteoStubServer.start(
+            Arrays.asList(System.getProperty(
+                    "load.stub.payloads",
+                    "openmeteo/forecast-berlin.json,openmeteo/forecast-mumbai.json"
+            ).split(",")),
+            Long.getLong("load.stub.latencyMs", 50),
+            Long.getLong("load.stub.jitterMs", 20)
+    );
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @DynamicPropertySource
+    static void weatherApi(DynamicPropertyRegistry registry) {
+        registry.add("weather.api.base-url", STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    void reportThroughputAgainstStubbedUpstream() throws InterruptedException {
+
+        int rps = Integer.getInteger("load.rps", 50);
+        int concurrency = Integer.getInteger("load.concurrency", 16);
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.durationSeconds", 30));
+
+        LoadGenerator generator = new LoadGenerator(
+                URI.create("http://localhost:" + port + "/api/v1/event-forecast"),
+                EventForecastLoadTest::randomEvent,
+                STUB::requestCount
+        );
+
+        if (!warmup.isZero()) {
+            generator.run(rps, concurrency, warmup);
+        }
+
+        LoadReport report = generator.run(rps, concurrency, duration);
+        System.out.println(report.format());
+
+        assertTrue(report.getCompleted() > 0, "No request completed");
+        assertEquals(0, report.getErrors(), "Requests failed during load run");
+    }
+
+    private static String randomEvent() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // keep the event and its 24h recommendation lookahead inside the payload
+        int durationHours = random.nextInt(1, 5);
+        LocalDateTime start = FORECAST_START.plusHours(
+                random.nextInt(FORECAST_HOURS - 24 - durationHours));
+
+        List<double[]> venues = List.of(
+                new double[]{52.52, 13.41},
+                new double[]{19.076, 72.8777}
+        );
+        double[] venue = venues.get(random.nextInt(venues.size()));
+
+        return String.format(
+                "{\"name\":\"Load Test Event\"," +
+                        "\"location\":{\"latitude\":%s,\"longitude\":%s}," +
+                        "\"startTime\":\"%s\",\"endTime\":\"%s\"}",
+                venue[0], venue[1], start, start.plusHours(durationHours)
+        );
+    }
+}
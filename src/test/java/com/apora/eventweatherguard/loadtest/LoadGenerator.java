@@ -0,0 +1,186 @@
+package com.apora.eventweatherguard.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: fires requests at a fixed rate and caps the
+ * number in flight. Ticks that find no free slot are counted as dropped
+ * rather than queued, so a slow server shows up as lost throughput instead
+ * of silently lowering the offered rate.
+ */
+public final class LoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    // plain HTTP/1.1: avoids an h2c upgrade attempt on every request
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final URI target;
+    private final Supplier<String> requestBodies;
+    private final LongSupplier upstreamCalls;
+
+    public LoadGenerator(
+            URI target,
+            Supplier<String> requestBodies,
+            LongSupplier upstreamCalls) {
+
+        this.target = target;
+        this.requestBodies = requestBodies;
+        this.upstreamCalls = upstreamCalls;
+    }
+
+    public LoadReport run(int rps, int concurrency, Duration duration)
+            throws InterruptedException {
+
+        if (rps <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("rps and concurrency must be positive");
+        }
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicLong sent = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        // heap and GC figures are for the whole test JVM: the service, this
+        // generator and the stub. Both heap readings follow a forced GC.
+        System.gc();
+        long heapBefore = heapUsed();
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMs();
+        long upstreamBefore = upstreamCalls.getAsLong();
+
+        ScheduledExecutorService ticker =
+                Executors.newSingleThreadScheduledExecutor();
+
+        long startNanos = System.nanoTime();
+
+        ScheduledFuture<?> ticks = ticker.scheduleAtFixedRate(() -> {
+
+            if (!inFlight.tryAcquire()) {
+                dropped.incrementAndGet();
+                return;
+            }
+
+            sent.incrementAndGet();
+            long requestStart = System.nanoTime();
+
+            try {
+                client.sendAsync(buildRequest(), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            if (failure != null || response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            } else {
+                                latencies.add(System.nanoTime() - requestStart);
+                            }
+                            inFlight.release();
+                        });
+            } catch (RuntimeException e) {
+                // an exception escaping the task would cancel every later tick
+                errors.incrementAndGet();
+                inFlight.release();
+            }
+
+        }, 0, TimeUnit.SECONDS.toNanos(1) / rps, TimeUnit.NANOSECONDS);
+
+        Thread.sleep(duration.toMillis());
+        ticks.cancel(false);
+        ticker.shutdown();
+
+        // wait for in-flight requests before taking measurements
+        if (inFlight.tryAcquire(concurrency, DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            inFlight.release(concurrency);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        long gcCountDuringRun = gcCount() - gcCountBefore;
+        long gcTimeDuringRun = gcTimeMs() - gcTimeBefore;
+
+        System.gc();
+        long heapAfter = heapUsed();
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+
+        return LoadReport.builder()
+                .targetRps(rps)
+                .concurrency(concurrency)
+                .elapsed(elapsed)
+                .sent(sent.get())
+                .completed(sorted.length)
+                .errors(errors.get())
+                .dropped(dropped.get())
+                .p50Ms(percentileMs(sorted, 50))
+                .p90Ms(percentileMs(sorted, 90))
+                .p99Ms(percentileMs(sorted, 99))
+                .maxMs(percentileMs(sorted, 100))
+                .upstreamCalls(upstreamCalls.getAsLong() - upstreamBefore)
+                .heapUsedBeforeBytes(heapBefore)
+                .heapUsedAfterBytes(heapAfter)
+                .gcCount(gcCountDuringRun)
+                .gcTimeMs(gcTimeDuringRun)
+                .build();
+    }
+
+    private HttpRequest buildRequest() {
+        return HttpRequest.newBuilder(target)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBodies.get()))
+                .build();
+    }
+
+    // nearest-rank percentile
+    static double percentileMs(long[] sortedNanos, double percentile) {
+
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        int index = Math.max(0, Math.min(sortedNanos.length - 1, rank - 1));
+
+        return sortedNanos[index] / 1e6;
+    }
+
+    private static long heapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long gcCount() {
+        return garbageCollectors().stream()
+                .mapToLong(gc -> Math.max(0, gc.getCollectionCount()))
+                .sum();
+    }
+
+    private static long gcTimeMs() {
+        return garbageCollectors().stream()
+                .mapToLong(gc -> Math.max(0, gc.getCollectionTime()))
+                .sum();
+    }
+
+    private static List<GarbageCollectorMXBean> garbageCollectors() {
+        return ManagementFactory.getGarbageCollectorMXBeans();
+    }
+}
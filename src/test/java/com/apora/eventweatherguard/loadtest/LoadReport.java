@@ -0,0 +1,61 @@
+package com.apora.eventweatherguard.loadtest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@Builder
+public class LoadReport {
+
+    private int targetRps;
+    private int concurrency;
+    private Duration elapsed;
+
+    private long sent;
+    private long completed;
+    private long errors;
+    private long dropped;
+
+    private double p50Ms;
+    private double p90Ms;
+    private double p99Ms;
+    private double maxMs;
+
+    private long upstreamCalls;
+
+    private long heapUsedBeforeBytes;
+    private long heapUsedAfterBytes;
+    private long gcCount;
+    private long gcTimeMs;
+
+    public double throughputRps() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : completed / seconds;
+    }
+
+    public double upstreamCallsPerRequest() {
+        return completed == 0 ? 0 : (double) upstreamCalls / completed;
+    }
+
+    public String format() {
+        return String.format(
+                "%n=== Event forecast load test ===%n" +
+                        "target        : %d rps, concurrency %d, %.1f s%n" +
+                        "requests      : sent %d, completed %d, errors %d, dropped %d%n" +
+                        "throughput    : %.1f rps%n" +
+                        "latency (ms)  : p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n" +
+                        "upstream      : %d calls (%.2f per request)%n" +
+                        "heap used     : %d MB -> %d MB (whole test JVM, after forced GC)%n" +
+                        "gc            : %d collections, %d ms (whole test JVM)%n",
+                targetRps, concurrency, elapsed.toMillis() / 1000.0,
+                sent, completed, errors, dropped,
+                throughputRps(),
+                p50Ms, p90Ms, p99Ms, maxMs,
+                upstreamCalls, upstreamCallsPerRequest(),
+                heapUsedBeforeBytes >> 20, heapUsedAfterBytes >> 20,
+                gcCount, gcTimeMs
+        );
+    }
+}
@@ -0,0 +1,215 @@
+package com.apora.eventweatherguard.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the Open-Meteo forecast endpoint.
+ * Replays payloads from the test classpath, picking the one whose own
+ * latitude/longitude is nearest to the requested coordinates, after a
+ * configurable latency of {@code latencyMs +- jitterMs}.
+ */
+public final class OpenMeteoStubServer implements AutoCloseable {
+
+    private static final String PATH = "/v1/forecast";
+    private static final Pattern LATITUDE = Pattern.compile("\"latitude\"\\s*:\\s*(-?[0-9.]+)");
+    private static final Pattern LONGITUDE = Pattern.compile("\"longitude\"\\s*:\\s*(-?[0-9.]+)");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final List<Fixture> fixtures;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private OpenMeteoStubServer(
+            List<Fixture> fixtures,
+            long latencyMs,
+            long jitterMs) throws IOException {
+
+        this.fixtures = fixtures;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+
+        server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+    }
+
+    public static OpenMeteoStubServer start(
+            List<String> payloadResources,
+            long latencyMs,
+            long jitterMs) {
+
+        if (payloadResources.isEmpty()) {
+            throw new IllegalArgumentException("At least one payload is required");
+        }
+
+        List<Fixture> fixtures = new ArrayList<>();
+        for (String resource : payloadResources) {
+            fixtures.add(Fixture.load(resource.trim()));
+        }
+
+        try {
+            OpenMeteoStubServer stub =
+                    new OpenMeteoStubServer(fixtures, latencyMs, jitterMs);
+            stub.server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        requestCount.incrementAndGet();
+        byte[] body = nearestFixture(exchange.getRequestURI().getRawQuery()).body;
+
+        try {
+            Thread.sleep(nextDelayMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private Fixture nearestFixture(String query) {
+
+        Map<String, String> params = new HashMap<>();
+
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    params.put(pair.substring(0, eq), pair.substring(eq + 1));
+                }
+            }
+        }
+
+        double latitude;
+        double longitude;
+        try {
+            latitude = Double.parseDouble(params.get("latitude"));
+            longitude = Double.parseDouble(params.get("longitude"));
+        } catch (NullPointerException | NumberFormatException e) {
+            return fixtures.get(0);
+        }
+
+        Fixture nearest = fixtures.get(0);
+        double best = Double.MAX_VALUE;
+
+        for (Fixture fixture : fixtures) {
+            double dLat = fixture.latitude - latitude;
+            double dLon = fixture.longitude - longitude;
+            double distance = dLat * dLat + dLon * dLon;
+
+            if (distance < best) {
+                best = distance;
+                nearest = fixture;
+            }
+        }
+        return nearest;
+    }
+
+    private long nextDelayMs() {
+
+        if (jitterMs <= 0) {
+            return latencyMs;
+        }
+
+        long delay = latencyMs
+                + ThreadLocalRandom.current().nextLong(-jitterMs, jitterMs + 1);
+
+        return Math.max(0, delay);
+    }
+
+    private static byte[] readResource(String resource) {
+
+        try (InputStream in = OpenMeteoStubServer.class
+                .getClassLoader()
+                .getResourceAsStream(resource)) {
+
+            if (in == null) {
+                throw new IllegalArgumentException("Payload not found: " + resource);
+            }
+            return in.readAllBytes();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Fixture {
+
+        private final double latitude;
+        private final double longitude;
+        private final byte[] body;
+
+        private Fixture(double latitude, double longitude, byte[] body) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.body = body;
+        }
+
+        // coordinates come from the payload itself, as Open-Meteo echoes them
+        static Fixture load(String resource) {
+
+            byte[] body = readResource(resource);
+            String json = new String(body, StandardCharsets.UTF_8);
+
+            Matcher latitude = LATITUDE.matcher(json);
+            Matcher longitude = LONGITUDE.matcher(json);
+
+            if (!latitude.find() || !longitude.find()) {
+                throw new IllegalArgumentException(
+                        "Payload has no latitude/longitude: " + resource);
+            }
+
+            return new Fixture(
+                    Double.parseDouble(latitude.group(1)),
+                    Double.parseDouble(longitude.group(1)),
+                    body
+            );
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -9,7 +9,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,27 +48,38 @@ class EventForecastServiceImplTest {
         );
 
         List<HourlyForecastResponse> forecasts = List.of(
-                new HourlyForecastResponse(LocalTime.NOON, 10, 5)
+                new HourlyForecastResponse(LocalDateTime.of(2026, 2, 5, 12, 0), 10, 5)
         );
 
         when(weatherApiClient.getHourlyForecast(
                 any(), any(), any())
         ).thenReturn(forecasts);
 
+        ForecastSeverityIndex index = new WeatherRuleEngine().buildIndex(forecasts);
+
+        when(ruleEngine.buildIndex(forecasts)).thenReturn(index);
+
         EventForecastResponse expectedResponse =
                 EventForecastResponse.builder().build();
 
-        when(ruleEngine.evaluate(forecasts))
-                .thenReturn(expectedResponse);
+        when(ruleEngine.evaluate(
+                eq(index), eq(request.getStartTime()), eq(request.getEndTime()))
+        ).thenReturn(expectedResponse);
 
         EventForecastResponse actual =
                 service.evaluateEventForecast(request);
 
         assertEquals(expectedResponse, actual);
-        verify(weatherApiClient, times(1))
-                .getHourlyForecast(any(), any(), any());
+        // one fetch covers the event window and the 24h lookahead
+        verify(weatherApiClient, times(1)).getHourlyForecast(
+                any(),
+                eq(request.getStartTime()),
+                eq(request.getStartTime().plusHours(24))
+        );
+        verify(ruleEngine, times(1))
+                .buildIndex(forecasts);
         verify(ruleEngine, times(1))
-                .evaluate(forecasts);
+                .recommendTimeWindow(eq(index), any(), any(), any());
     }
 
     private EventForecastRequest buildRequest(
@@ -0,0 +1,90 @@
+package com.apora.eventweatherguard.service;
+
+import com.apora.eventweatherguard.response.HourlyForecastResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForecastSeverityIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 2, 5, 0, 0);
+
+    private WeatherRuleEngine ruleEngine;
+
+    @BeforeEach
+    void setUp() {
+        ruleEngine = new WeatherRuleEngine();
+    }
+
+    @Test
+    void shouldMatchBruteForceMax_forEveryWindow() {
+        List<HourlyForecastResponse> forecasts = randomForecasts(37);
+        ForecastSeverityIndex index = ruleEngine.buildIndex(forecasts);
+
+        for (int from = 0; from <= forecasts.size(); from++) {
+            for (int to = from; to <= forecasts.size(); to++) {
+
+                int expected = forecasts.subList(from, to).stream()
+                        .mapToInt(WeatherRuleEngine::hourlySeverity)
+                        .max()
+                        .orElse(0);
+
+                assertEquals(expected, index.maxSeverity(from, to));
+            }
+        }
+    }
+
+    @Test
+    void shouldReportRuleFlags_forWindow() {
+        List<HourlyForecastResponse> forecasts = List.of(
+                new HourlyForecastResponse(START, 10, 5),
+                new HourlyForecastResponse(START.plusHours(1), 65, 10),
+                new HourlyForecastResponse(START.plusHours(2), 20, 45)
+        );
+        ForecastSeverityIndex index = ruleEngine.buildIndex(forecasts);
+
+        assertFalse(index.hasRiskyHour(0, 1));
+        assertTrue(index.hasRiskyHour(0, 2));
+        assertFalse(index.hasUnsafeHour(0, 2));
+        assertTrue(index.hasUnsafeHour(2, 3));
+    }
+
+    @Test
+    void shouldLocateHoursByTime() {
+        ForecastSeverityIndex index = ruleEngine.buildIndex(randomForecasts(24));
+
+        assertEquals(0, index.firstAtOrAfter(START.minusHours(3)));
+        assertEquals(5, index.firstAtOrAfter(START.plusHours(5)));
+        assertEquals(6, index.firstAtOrAfter(START.plusHours(5).plusMinutes(1)));
+        assertEquals(6, index.firstAfter(START.plusHours(5)));
+        assertEquals(24, index.firstAfter(START.plusDays(2)));
+    }
+
+    @Test
+    void shouldThrow_whenWindowOutOfRange() {
+        ForecastSeverityIndex index = ruleEngine.buildIndex(randomForecasts(4));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> index.maxSeverity(2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.maxSeverity(3, 1));
+    }
+
+    private List<HourlyForecastResponse> randomForecasts(int hours) {
+        Random random = new Random(42);
+        List<HourlyForecastResponse> forecasts = new ArrayList<>();
+
+        for (int i = 0; i < hours; i++) {
+            forecasts.add(new HourlyForecastResponse(
+                    START.plusHours(i),
+                    random.nextInt(101),
+                    random.nextDouble() * 60
+            ));
+        }
+        return forecasts;
+    }
+}
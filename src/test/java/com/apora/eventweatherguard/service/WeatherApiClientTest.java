@@ -0,0 +1,135 @@
+package com.apora.eventweatherguard.service;
+
+import com.apora.eventweatherguard.response.HourlyForecastResponse;
+import com.apora.eventweatherguard.response.OpenMeteoResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherApiClientTest {
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2026, 2, 5, 0, 0);
+
+    @Test
+    void shouldReturnOnlyInWindowHours_forRegularSeries() {
+        OpenMeteoResponse.Hourly hourly = hourly(FIRST, 168);
+
+        List<HourlyForecastResponse> result = WeatherApiClient.mapAndFilter(
+                hourly,
+                FIRST.plusHours(17),
+                FIRST.plusHours(19)
+        );
+
+        assertEquals(3, result.size());
+        assertEquals(FIRST.plusHours(17), result.get(0).getTime());
+        assertEquals(17, result.get(0).getRainProbability());
+        assertEquals(FIRST.plusHours(19), result.get(2).getTime());
+    }
+
+    @Test
+    void shouldRoundInwards_whenWindowIsNotOnHourBoundary() {
+        OpenMeteoResponse.Hourly hourly = hourly(FIRST, 48);
+
+        List<HourlyForecastResponse> result = WeatherApiClient.mapAndFilter(
+                hourly,
+                FIRST.plusHours(5).plusMinutes(30),
+                FIRST.plusHours(7).plusMinutes(59)
+        );
+
+        assertEquals(2, result.size());
+        assertEquals(FIRST.plusHours(6), result.get(0).getTime());
+        assertEquals(FIRST.plusHours(7), result.get(1).getTime());
+    }
+
+    @Test
+    void shouldExcludeHourBeforeStart_whenStartHasFractionalSeconds() {
+        OpenMeteoResponse.Hourly hourly = hourly(FIRST, 48);
+        LocalDateTime start = FIRST.plusHours(5).plusNanos(500_000_000);
+        LocalDateTime end = FIRST.plusHours(7).plusNanos(500_000_000);
+
+        List<HourlyForecastResponse> result =
+                WeatherApiClient.mapAndFilter(hourly, start, end);
+
+        assertEquals(2, result.size());
+        assertEquals(FIRST.plusHours(6), result.get(0).getTime());
+        assertEquals(FIRST.plusHours(7), result.get(1).getTime());
+    }
+
+    @Test
+    void shouldClampToSeries_whenWindowExtendsBeyondForecast() {
+        OpenMeteoResponse.Hourly hourly = hourly(FIRST, 24);
+
+        assertEquals(24, WeatherApiClient.mapAndFilter(
+                hourly, FIRST.minusDays(1), FIRST.plusDays(2)).size());
+        assertTrue(WeatherApiClient.mapAndFilter(
+                hourly, FIRST.plusDays(2), FIRST.plusDays(3)).isEmpty());
+    }
+
+    @Test
+    void shouldFallBackToScan_whenSeriesIsIrregular() {
+        OpenMeteoResponse.Hourly hourly = hourly(FIRST, 4);
+        hourly.getTime().set(3, "2026-02-05T05:00");
+
+        List<HourlyForecastResponse> result = WeatherApiClient.mapAndFilter(
+                hourly,
+                FIRST.plusHours(2),
+                FIRST.plusHours(5)
+        );
+
+        assertEquals(2, result.size());
+        assertEquals(FIRST.plusHours(5), result.get(1).getTime());
+    }
+
+    @Test
+    void shouldReturnPayloadTimes_whenSeriesHasGapAndDuplicate() {
+        OpenMeteoResponse.Hourly hourly = hourly(FIRST, 8);
+        // 00 01 02 03 05 05 06 07: first, second and last still look regular
+        hourly.getTime().set(4, "2026-02-05T05:00");
+
+        List<HourlyForecastResponse> result = WeatherApiClient.mapAndFilter(
+                hourly,
+                FIRST.plusHours(4),
+                FIRST.plusHours(5)
+        );
+
+        assertEquals(2, result.size());
+        assertEquals(FIRST.plusHours(5), result.get(0).getTime());
+        assertEquals(4, result.get(0).getRainProbability());
+        assertEquals(FIRST.plusHours(5), result.get(1).getTime());
+        assertEquals(5, result.get(1).getRainProbability());
+    }
+
+    @Test
+    void shouldParseFixedFormatAndIsoFallback() {
+        assertEquals(
+                LocalDateTime.of(2026, 2, 5, 17, 0),
+                WeatherApiClient.parseHourlyTime("2026-02-05T17:00")
+        );
+        assertEquals(
+                LocalDateTime.of(2026, 2, 5, 17, 0, 30),
+                WeatherApiClient.parseHourlyTime("2026-02-05T17:00:30")
+        );
+    }
+
+    private OpenMeteoResponse.Hourly hourly(LocalDateTime first, int hours) {
+        List<String> time = new ArrayList<>();
+        List<Integer> rain = new ArrayList<>();
+        List<Double> wind = new ArrayList<>();
+
+        for (int i = 0; i < hours; i++) {
+            time.add(first.plusHours(i).toString());
+            rain.add(i % 101);
+            wind.add(i * 0.5);
+        }
+
+        OpenMeteoResponse.Hourly hourly = new OpenMeteoResponse.Hourly();
+        hourly.setTime(time);
+        hourly.setPrecipitation_probability(rain);
+        hourly.setWind_speed_10m(wind);
+        return hourly;
+    }
+}
@@ -3,13 +3,16 @@ package com.apora.eventweatherguard.service;
 import com.apora.eventweatherguard.response.Classification;
 import com.apora.eventweatherguard.response.EventForecastResponse;
 import com.apora.eventweatherguard.response.HourlyForecastResponse;
+import com.apora.eventweatherguard.response.TimeWindowRecommendation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.time.LocalTime;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class WeatherRuleEngineTest {
 
@@ -23,7 +26,7 @@ class WeatherRuleEngineTest {
     @Test
     void shouldReturnUnsafe_whenHeavyRainPresent() {
         List<HourlyForecastResponse> forecasts = List.of(
-                new HourlyForecastResponse(LocalTime.of(17, 0), 90, 10)
+                new HourlyForecastResponse(LocalDateTime.of(2026, 2, 5, 17, 0), 90, 10)
         );
 
         EventForecastResponse response = ruleEngine.evaluate(forecasts);
@@ -34,7 +37,7 @@ class WeatherRuleEngineTest {
     @Test
     void shouldReturnRisky_whenHighRainProbabilityPresent() {
         List<HourlyForecastResponse> forecasts = List.of(
-                new HourlyForecastResponse(LocalTime.of(18, 0), 65, 10)
+                new HourlyForecastResponse(LocalDateTime.of(2026, 2, 5, 18, 0), 65, 10)
         );
 
         EventForecastResponse response = ruleEngine.evaluate(forecasts);
@@ -45,7 +48,7 @@ class WeatherRuleEngineTest {
     @Test
     void shouldReturnSafe_whenConditionsAreStable() {
         List<HourlyForecastResponse> forecasts = List.of(
-                new HourlyForecastResponse(LocalTime.of(19, 0), 10, 5)
+                new HourlyForecastResponse(LocalDateTime.of(2026, 2, 5, 19, 0), 10, 5)
         );
 
         EventForecastResponse response = ruleEngine.evaluate(forecasts);
@@ -59,4 +62,75 @@ class WeatherRuleEngineTest {
 
         assertEquals(Classification.SAFE, response.getClassification());
     }
+
+    @Test
+    void shouldEvaluateOnlyEventHours_fromSharedIndex() {
+        LocalDateTime start = LocalDateTime.of(2026, 2, 5, 17, 0);
+        ForecastSeverityIndex index = ruleEngine.buildIndex(sampleForecast(start));
+
+        EventForecastResponse unsafe =
+                ruleEngine.evaluate(index, start, start.plusHours(1));
+        EventForecastResponse safe =
+                ruleEngine.evaluate(index, start.plusHours(2), start.plusHours(3));
+
+        assertEquals(Classification.UNSAFE, unsafe.getClassification());
+        assertEquals(62, unsafe.getSeverityScore());
+        assertEquals(Classification.SAFE, safe.getClassification());
+        assertEquals(16, safe.getSeverityScore());
+        assertEquals(2, safe.getEventWindowForecast().size());
+    }
+
+    @Test
+    void shouldRecommendCalmestWindow_fromSharedIndex() {
+        LocalDateTime start = LocalDateTime.of(2026, 2, 5, 17, 0);
+        ForecastSeverityIndex index = ruleEngine.buildIndex(sampleForecast(start));
+
+        TimeWindowRecommendation window = ruleEngine
+                .recommendTimeWindow(index, start, start.plusHours(4), Duration.ofHours(2))
+                .orElseThrow();
+
+        assertEquals(start.plusHours(2), window.getStartTime());
+        assertEquals(start.plusHours(4), window.getEndTime());
+        assertEquals(16, window.getSeverityScore());
+    }
+
+    @Test
+    void shouldRecommendOnlyWithinRequestedRange_fromSharedIndex() {
+        LocalDateTime start = LocalDateTime.of(2026, 2, 5, 17, 0);
+        ForecastSeverityIndex index = ruleEngine.buildIndex(sampleForecast(start));
+
+        TimeWindowRecommendation window = ruleEngine
+                .recommendTimeWindow(index, start, start.plusHours(2), Duration.ofHours(1))
+                .orElseThrow();
+
+        assertEquals(start.plusHours(2), window.getStartTime());
+
+        TimeWindowRecommendation earlier = ruleEngine
+                .recommendTimeWindow(index, start, start.plusHours(1), Duration.ofHours(1))
+                .orElseThrow();
+
+        assertEquals(start.plusHours(1), earlier.getStartTime());
+        assertEquals(58, earlier.getSeverityScore());
+    }
+
+    @Test
+    void shouldNotRecommend_whenEventLongerThanForecast() {
+        List<HourlyForecastResponse> forecasts = List.of(
+                new HourlyForecastResponse(LocalDateTime.of(2026, 2, 5, 17, 0), 90, 10)
+        );
+
+        assertTrue(ruleEngine
+                .recommendTimeWindow(forecasts, Duration.ofHours(3))
+                .isEmpty());
+    }
+
+    private List<HourlyForecastResponse> sampleForecast(LocalDateTime start) {
+        return List.of(
+                new HourlyForecastResponse(start, 90, 10),
+                new HourlyForecastResponse(start.plusHours(1), 70, 20),
+                new HourlyForecastResponse(start.plusHours(2), 10, 5),
+                new HourlyForecastResponse(start.plusHours(3), 20, 5),
+                new HourlyForecastResponse(start.plusHours(4), 85, 30)
+        );
+    }
 }